@@ -0,0 +1,114 @@
+package com.risk.analyzer.analytics.snapshot;
+
+import com.risk.analyzer.analytics.correlation.CovarianceEstimator;
+import com.risk.analyzer.math.matrix.Matrix;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Precomputed risk state for a universe of assets.
+ *
+ * Holds everything that is otherwise rebuilt from raw returns on each start:
+ * the covariance matrix, per-asset mean and standard deviation, and the
+ * sorted historical return window of every asset. Snapshots are tagged with
+ * the version of the dataset they were built from so that a reload can be
+ * rejected when the source data has moved on.
+ *
+ * Use RiskSnapshotStore to write a snapshot to disk and load it back.
+ */
+public class RiskSnapshot {
+    private long datasetVersion;
+    private int numAssets;
+    private int numPeriods;
+    private double[] means;
+    private double[] standardDeviations;
+    private Matrix covariance;
+    private DoubleBuffer sortedReturns;   // numAssets windows of numPeriods, each ascending
+
+    RiskSnapshot(long datasetVersion, int numAssets, int numPeriods, double[] means,
+                 double[] standardDeviations, Matrix covariance, DoubleBuffer sortedReturns) {
+        this.datasetVersion = datasetVersion;
+        this.numAssets = numAssets;
+        this.numPeriods = numPeriods;
+        this.means = means;
+        this.standardDeviations = standardDeviations;
+        this.covariance = covariance;
+        this.sortedReturns = sortedReturns;
+    }
+
+    /**
+     * Build a snapshot from raw asset returns.
+     *
+     * @param returns 2D array where returns[i] is the return series for asset i
+     * @param datasetVersion caller-defined version of the source dataset
+     * @return snapshot holding covariance, moments and sorted windows
+     */
+    public static RiskSnapshot build(double[][] returns, long datasetVersion) {
+        Matrix covariance = CovarianceEstimator.calculateCovarianceMatrix(returns);
+        double[] means = CovarianceEstimator.calculateMeanReturns(returns);
+        double[] stdDevs = CovarianceEstimator.calculateStandardDeviations(returns);
+
+        int numAssets = returns.length;
+        int numPeriods = returns[0].length;
+
+        double[] sorted = new double[numAssets * numPeriods];
+        for (int i = 0; i < numAssets; i++) {
+            int offset = i * numPeriods;
+            System.arraycopy(returns[i], 0, sorted, offset, numPeriods);
+            Arrays.sort(sorted, offset, offset + numPeriods);
+        }
+
+        return new RiskSnapshot(datasetVersion, numAssets, numPeriods, means, stdDevs,
+                covariance, DoubleBuffer.wrap(sorted));
+    }
+
+    // Getters
+    public long getDatasetVersion()
+    {
+        return this.datasetVersion;
+    }
+    public int getNumAssets()
+    {
+        return this.numAssets;
+    }
+    public int getNumPeriods()
+    {
+        return this.numPeriods;
+    }
+    public double[] getMeans()
+    {
+        return this.means;
+    }
+    public double[] getStandardDeviations()
+    {
+        return this.standardDeviations;
+    }
+    public Matrix getCovariance()
+    {
+        return this.covariance;
+    }
+
+    /**
+     * Copy of the sorted (ascending) historical return window of one asset.
+     * Suitable for HistoricalVaR.fromSorted.
+     */
+    public double[] getSortedReturns(int asset) {
+        if (asset < 0 || asset >= numAssets) {
+            throw new IllegalArgumentException("Asset index out of range");
+        }
+        double[] window = new double[numPeriods];
+        sortedReturns.get(asset * numPeriods, window);
+        return window;
+    }
+
+    DoubleBuffer sortedReturnsBuffer() {
+        return sortedReturns.duplicate();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RiskSnapshot[dataset v%d]: %d assets, %d periods",
+                datasetVersion, numAssets, numPeriods);
+    }
+}
@@ -0,0 +1,186 @@
+package com.risk.analyzer.analytics.snapshot;
+
+import com.risk.analyzer.math.matrix.Matrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary checkpoint format for RiskSnapshot.
+ *
+ * Layout (big-endian):
+ *   int    magic            "RSNP"
+ *   int    format version
+ *   long   dataset version
+ *   int    number of assets (n)
+ *   int    number of periods (p)
+ *   double means[n]
+ *   double standard deviations[n]
+ *   double covariance upper triangle, row by row [n(n+1)/2]
+ *   double sorted return windows, asset by asset [n * p]
+ *
+ * The covariance matrix is symmetric, so only the upper triangle is stored.
+ * On load the file is memory-mapped; the sorted windows, which make up the
+ * bulk of the file, are served straight from the mapping without copying.
+ */
+public class RiskSnapshotStore {
+
+    private static final int MAGIC = 0x52534E50;   // "RSNP"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 24;    // Keeps the payload 8-byte aligned
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    /**
+     * Write a snapshot to the given file, replacing any existing content.
+     * The data is written to a sibling temp file first and then moved into
+     * place, so a crash mid-write never leaves a truncated checkpoint behind.
+     */
+    public static void write(RiskSnapshot snapshot, Path file) throws IOException {
+        if (snapshot == null || file == null) {
+            throw new IllegalArgumentException("Inputs cannot be null");
+        }
+
+        int n = snapshot.getNumAssets();
+        int p = snapshot.getNumPeriods();
+
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(FORMAT_VERSION);
+            buffer.putLong(snapshot.getDatasetVersion());
+            buffer.putInt(n);
+            buffer.putInt(p);
+
+            for (double v : snapshot.getMeans()) {
+                putDouble(channel, buffer, v);
+            }
+            for (double v : snapshot.getStandardDeviations()) {
+                putDouble(channel, buffer, v);
+            }
+
+            Matrix cov = snapshot.getCovariance();
+            for (int i = 0; i < n; i++) {
+                for (int j = i; j < n; j++) {
+                    putDouble(channel, buffer, cov.get(i, j));
+                }
+            }
+
+            DoubleBuffer sorted = snapshot.sortedReturnsBuffer();
+            sorted.rewind();
+            while (sorted.hasRemaining()) {
+                putDouble(channel, buffer, sorted.get());
+            }
+
+            drain(channel, buffer);
+            channel.force(false);
+        }
+
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Load a snapshot and check that it was built from the expected dataset.
+     *
+     * @param file checkpoint written by write()
+     * @param expectedDatasetVersion version of the dataset currently in use
+     * @return the restored snapshot
+     * @throws IOException if the file cannot be read or is not a valid checkpoint
+     * @throws IllegalArgumentException if the snapshot is from another dataset version
+     */
+    public static RiskSnapshot load(Path file, long expectedDatasetVersion) throws IOException {
+        RiskSnapshot snapshot = load(file);
+        if (snapshot.getDatasetVersion() != expectedDatasetVersion) {
+            throw new IllegalArgumentException("Snapshot was built from dataset version "
+                    + snapshot.getDatasetVersion() + ", expected " + expectedDatasetVersion);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Load a snapshot without checking its dataset version.
+     */
+    public static RiskSnapshot load(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Snapshot file is truncated: " + file);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file is too large to map: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (mapped.getInt() != MAGIC) {
+            throw new IOException("Not a risk snapshot file: " + file);
+        }
+        int formatVersion = mapped.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + formatVersion);
+        }
+        long datasetVersion = mapped.getLong();
+        int n = mapped.getInt();
+        int p = mapped.getInt();
+        if (n <= 0 || p <= 0) {
+            throw new IOException("Snapshot header is corrupt: " + file);
+        }
+
+        long triangle = (long) n * (n + 1) / 2;
+        long expectedSize = HEADER_BYTES + 8L * (2L * n + triangle + (long) n * p);
+        if (mapped.capacity() != expectedSize) {
+            throw new IOException("Snapshot size " + mapped.capacity()
+                    + " does not match header (expected " + expectedSize + ")");
+        }
+
+        DoubleBuffer payload = mapped.asDoubleBuffer();
+
+        double[] means = new double[n];
+        double[] stdDevs = new double[n];
+        payload.get(means);
+        payload.get(stdDevs);
+
+        double[][] cov = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            payload.get(cov[i], i, n - i);
+            for (int j = i + 1; j < n; j++) {
+                cov[j][i] = cov[i][j];
+            }
+        }
+
+        DoubleBuffer sorted = payload.slice().asReadOnlyBuffer();
+
+        return new RiskSnapshot(datasetVersion, n, p, means, stdDevs, new Matrix(cov), sorted);
+    }
+
+    private static void putDouble(FileChannel channel, ByteBuffer buffer, double value) throws IOException {
+        if (buffer.remaining() < Double.BYTES) {
+            drain(channel, buffer);
+        }
+        buffer.putDouble(value);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
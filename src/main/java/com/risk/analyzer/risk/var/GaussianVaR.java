@@ -18,6 +18,20 @@ public class GaussianVaR {
         double mean = Statistics.mean(returns);
         double std = Statistics.standardDeviation(returns);
 
+        return fromMoments(mean, std, portfolioValue, confidenceLevel, timeHorizon);
+    }
+
+    /**
+     * Gaussian VaR from precomputed mean and (population) standard deviation,
+     * e.g. values restored from a RiskSnapshot.
+     */
+    public static VaRResult fromMoments(
+            double mean,
+            double std,
+            double portfolioValue,
+            double confidenceLevel,
+            int timeHorizon
+    ) {
         double z = NormalDistribution.inverseCDF(confidenceLevel);
 
         double scaledStd = std * Math.sqrt(timeHorizon);
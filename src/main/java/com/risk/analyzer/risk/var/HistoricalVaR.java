@@ -11,7 +11,24 @@ public class HistoricalVaR {
             throw new IllegalArgumentException("confidenceLevel should be between 0 & 1");
         }
 
-        double[] sorted = sortedCopy(returns);
+        return fromSorted(sortedCopy(returns), portfolioValue, confidenceLevel, timeHorizon);
+    }
+
+    public static VaRResult calculate(double[] returns, double portfolioValue, double confidenceLevel) {
+        return calculate(returns, portfolioValue, confidenceLevel, 1);
+    }
+
+    /**
+     * Historical VaR from a return window that is already sorted ascending,
+     * e.g. one restored from a RiskSnapshot. The window is not copied.
+     */
+    public static VaRResult fromSorted(double[] sorted, double portfolioValue, double confidenceLevel, int timeHorizon) {
+        if (sorted == null || sorted.length == 0) {
+            throw new IllegalArgumentException("returns should have a size > 0");
+        }
+        if (confidenceLevel <= 0 || confidenceLevel >= 1) {
+            throw new IllegalArgumentException("confidenceLevel should be between 0 & 1");
+        }
 
         double alpha = 1.0 - confidenceLevel;
         int index = (int) Math.ceil(alpha * sorted.length) - 1;
@@ -33,10 +50,6 @@ public class HistoricalVaR {
         return new VaRResult(var, confidenceLevel, timeHorizon, "Historical");
     }
 
-    public static VaRResult calculate(double[] returns, double portfolioValue, double confidenceLevel) {
-        return calculate(returns, portfolioValue, confidenceLevel, 1);
-    }
-
     private static double[] sortedCopy(double[] original) {
         double[] copy = original.clone();
         Arrays.sort(copy);
@@ -23,6 +23,28 @@ public class PortfolioVaR {
 
         Matrix cov = CovarianceEstimator.calculateCovarianceMatrix(assetReturns);
 
+        return gaussianVaR(cov, weights, portfolioValue, confidenceLevel, timeHorizon);
+    }
+
+    /**
+     * Portfolio Gaussian VaR from a precomputed covariance matrix,
+     * e.g. one restored from a RiskSnapshot.
+     */
+    public static VaRResult gaussianVaR(
+            Matrix cov,
+            double[] weights,
+            double portfolioValue,
+            double confidenceLevel,
+            int timeHorizon
+    ) {
+        if (cov == null || weights == null) {
+            throw new IllegalArgumentException("Inputs cannot be null");
+        }
+
+        if (cov.getRows() != weights.length) {
+            throw new IllegalArgumentException("Weights must match number of assets");
+        }
+
         Matrix w = new Matrix(new double[][] { weights }).transpose();
         Matrix wT = w.transpose();
 
@@ -0,0 +1,169 @@
+package com.risk.analyzer.risk.var;
+
+import com.risk.analyzer.math.statistics.NormalDistribution;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Standalone VaR screen over a whole universe of instruments.
+ *
+ * Computes the same numbers as calling HistoricalVaR.calculate and
+ * GaussianVaR.calculate once per instrument, plus the first four moments,
+ * but without allocating a VaRResult or a sorted clone per instrument.
+ *
+ * Input is a columnar block: returns[i * numPeriods + t] is the return of
+ * instrument i in period t. Work is split across the common fork/join pool
+ * and each worker thread sorts into its own reusable scratch buffer.
+ */
+public class UniverseVaRScan {
+
+    // Instruments per leaf task before the range is no longer split
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private static final ThreadLocal<double[]> SCRATCH =
+            ThreadLocal.withInitial(() -> new double[0]);
+
+    public static VaRScanResult scan(
+            double[] returns,
+            int numInstruments,
+            int numPeriods,
+            double portfolioValue,
+            double confidenceLevel,
+            int timeHorizon
+    ) {
+        if (returns == null || numInstruments <= 0 || numPeriods <= 0) {
+            throw new IllegalArgumentException("Returns block cannot be null or empty");
+        }
+        if ((long) numInstruments * numPeriods != returns.length) {
+            throw new IllegalArgumentException("Returns block must hold numInstruments * numPeriods values");
+        }
+        if (confidenceLevel <= 0 || confidenceLevel >= 1) {
+            throw new IllegalArgumentException("confidenceLevel should be between 0 & 1");
+        }
+
+        VaRScanResult result = new VaRScanResult(numInstruments, confidenceLevel, timeHorizon);
+
+        // Everything that does not depend on the instrument is computed once
+        double alpha = 1.0 - confidenceLevel;
+        int index = (int) Math.ceil(alpha * numPeriods) - 1;
+        index = Math.max(0, Math.min(index, numPeriods - 1));
+
+        double z = NormalDistribution.inverseCDF(confidenceLevel);
+        double sqrtHorizon = Math.sqrt(timeHorizon);
+
+        ScanTask task = new ScanTask(returns, numPeriods, portfolioValue, index, z, sqrtHorizon,
+                result, 0, numInstruments);
+        ForkJoinPool.commonPool().invoke(task);
+
+        return result;
+    }
+
+    public static VaRScanResult scan(
+            double[] returns,
+            int numInstruments,
+            int numPeriods,
+            double portfolioValue,
+            double confidenceLevel
+    ) {
+        return scan(returns, numInstruments, numPeriods, portfolioValue, confidenceLevel, 1);
+    }
+
+    private static class ScanTask extends RecursiveAction {
+        private final double[] returns;
+        private final int numPeriods;
+        private final double portfolioValue;
+        private final int quantileIndex;
+        private final double z;
+        private final double sqrtHorizon;
+        private final VaRScanResult result;
+        private final int from;
+        private final int to;
+
+        ScanTask(double[] returns, int numPeriods, double portfolioValue, int quantileIndex,
+                 double z, double sqrtHorizon, VaRScanResult result, int from, int to) {
+            this.returns = returns;
+            this.numPeriods = numPeriods;
+            this.portfolioValue = portfolioValue;
+            this.quantileIndex = quantileIndex;
+            this.z = z;
+            this.sqrtHorizon = sqrtHorizon;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                scanRange();
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new ScanTask(returns, numPeriods, portfolioValue, quantileIndex, z, sqrtHorizon,
+                            result, from, mid),
+                    new ScanTask(returns, numPeriods, portfolioValue, quantileIndex, z, sqrtHorizon,
+                            result, mid, to)
+            );
+        }
+
+        private void scanRange() {
+            double[] scratch = SCRATCH.get();
+            if (scratch.length < numPeriods) {
+                scratch = new double[numPeriods];
+                SCRATCH.set(scratch);
+            }
+
+            double[] historicalVaR = result.getHistoricalVaR();
+            double[] gaussianVaR = result.getGaussianVaR();
+            double[] means = result.getMean();
+            double[] stdDevs = result.getStandardDeviation();
+            double[] skews = result.getSkewness();
+            double[] kurts = result.getKurtosis();
+
+            for (int i = from; i < to; i++) {
+                int offset = i * numPeriods;
+
+                // Pass 1: mean, summed in the same order as Statistics.mean
+                double sum = 0;
+                for (int t = 0; t < numPeriods; t++) {
+                    sum += returns[offset + t];
+                }
+                double mean = sum / numPeriods;
+
+                // Pass 2: central moments, copying into scratch for the sort
+                double m2 = 0, m3 = 0, m4 = 0;
+                for (int t = 0; t < numPeriods; t++) {
+                    double v = returns[offset + t];
+                    scratch[t] = v;
+                    double d = v - mean;
+                    double d2 = d * d;
+                    m2 += d2;
+                    m3 += d2 * d;
+                    m4 += d2 * d2;
+                }
+                double variance = m2 / numPeriods;
+                double std = Math.sqrt(variance);
+
+                Arrays.sort(scratch, 0, numPeriods);
+                double percentileReturn = scratch[quantileIndex];
+
+                historicalVaR[i] = Math.abs(percentileReturn * sqrtHorizon) * portfolioValue;
+                gaussianVaR[i] = Math.abs(mean - z * (std * sqrtHorizon)) * portfolioValue;
+                means[i] = mean;
+                stdDevs[i] = std;
+
+                if (variance == 0.0) {
+                    skews[i] = 0.0;  // Undefined for a constant series
+                    kurts[i] = 0.0;
+                } else {
+                    skews[i] = (m3 / numPeriods) / (variance * std);
+                    kurts[i] = (m4 / numPeriods) / (variance * variance) - 3.0;
+                }
+            }
+        }
+    }
+}
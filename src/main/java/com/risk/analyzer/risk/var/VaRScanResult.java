@@ -0,0 +1,73 @@
+package com.risk.analyzer.risk.var;
+
+/**
+ * Columnar output of a universe-wide VaR scan.
+ * Each column holds one value per instrument, indexed in the same order
+ * as the instruments in the scanned return block.
+ */
+public class VaRScanResult {
+    private double[] historicalVaR;
+    private double[] gaussianVaR;
+    private double[] mean;
+    private double[] standardDeviation;
+    private double[] skewness;
+    private double[] kurtosis;     // Excess kurtosis (normal = 0)
+    private double confidenceLevel;
+    private int timeHorizon;
+
+    VaRScanResult(int numInstruments, double confidenceLevel, int timeHorizon)
+    {
+        this.historicalVaR = new double[numInstruments];
+        this.gaussianVaR = new double[numInstruments];
+        this.mean = new double[numInstruments];
+        this.standardDeviation = new double[numInstruments];
+        this.skewness = new double[numInstruments];
+        this.kurtosis = new double[numInstruments];
+        this.confidenceLevel = confidenceLevel;
+        this.timeHorizon = timeHorizon;
+    }
+
+    // Getters (columns are returned without copying)
+    public int size()
+    {
+        return this.historicalVaR.length;
+    }
+    public double[] getHistoricalVaR()
+    {
+        return this.historicalVaR;
+    }
+    public double[] getGaussianVaR()
+    {
+        return this.gaussianVaR;
+    }
+    public double[] getMean()
+    {
+        return this.mean;
+    }
+    public double[] getStandardDeviation()
+    {
+        return this.standardDeviation;
+    }
+    public double[] getSkewness()
+    {
+        return this.skewness;
+    }
+    public double[] getKurtosis()
+    {
+        return this.kurtosis;
+    }
+    public double getConfidenceLevel()
+    {
+        return this.confidenceLevel;
+    }
+    public int getTimeHorizon()
+    {
+        return this.timeHorizon;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("VaRScan[%d instruments] (%.1f%% confidence, %d-day horizon)",
+                size(), confidenceLevel * 100, timeHorizon);
+    }
+}
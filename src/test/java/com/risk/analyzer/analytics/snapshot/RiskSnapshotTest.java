@@ -0,0 +1,80 @@
+package com.risk.analyzer.analytics.snapshot;
+
+import com.risk.analyzer.risk.var.GaussianVaR;
+import com.risk.analyzer.risk.var.HistoricalVaR;
+import com.risk.analyzer.risk.var.PortfolioVaR;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class RiskSnapshotTest {
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Testing Risk Snapshot ===\n");
+
+        int numAssets = 50;
+        int numPeriods = 250;
+        long datasetVersion = 20261019L;
+
+        Random random = new Random(7);
+        double[][] returns = new double[numAssets][numPeriods];
+        for (int i = 0; i < numAssets; i++) {
+            for (int t = 0; t < numPeriods; t++) {
+                returns[i][t] = random.nextGaussian() * 0.015;
+            }
+        }
+
+        double[] weights = new double[numAssets];
+        for (int i = 0; i < numAssets; i++) {
+            weights[i] = 1.0 / numAssets;
+        }
+
+        double portfolioValue = 100000.0;
+        double confidence = 0.99;
+
+        RiskSnapshot built = RiskSnapshot.build(returns, datasetVersion);
+
+        Path file = Files.createTempFile("risk-snapshot", ".bin");
+        try {
+            RiskSnapshotStore.write(built, file);
+            System.out.println("Snapshot size: " + Files.size(file) + " bytes");
+
+            RiskSnapshot loaded = RiskSnapshotStore.load(file, datasetVersion);
+            System.out.println(loaded);
+
+            // Restored state must serve the same VaR as computing from raw returns
+            for (int i = 0; i < numAssets; i++) {
+                double historical = HistoricalVaR.calculate(returns[i], portfolioValue, confidence, 10).getValue();
+                double restoredHistorical = HistoricalVaR.fromSorted(
+                        loaded.getSortedReturns(i), portfolioValue, confidence, 10).getValue();
+
+                double gaussian = GaussianVaR.calculate(returns[i], portfolioValue, confidence, 10).getValue();
+                double restoredGaussian = GaussianVaR.fromMoments(
+                        loaded.getMeans()[i], loaded.getStandardDeviations()[i],
+                        portfolioValue, confidence, 10).getValue();
+
+                if (historical != restoredHistorical || gaussian != restoredGaussian) {
+                    throw new AssertionError("Restored VaR differs for asset " + i);
+                }
+            }
+
+            double portfolio = PortfolioVaR.gaussianVaR(returns, weights, portfolioValue, confidence, 1).getValue();
+            double restoredPortfolio = PortfolioVaR.gaussianVaR(
+                    loaded.getCovariance(), weights, portfolioValue, confidence, 1).getValue();
+            if (portfolio != restoredPortfolio) {
+                throw new AssertionError("Restored portfolio VaR differs");
+            }
+            System.out.printf("Portfolio VaR (raw vs restored): %.2f / %.2f%n", portfolio, restoredPortfolio);
+
+            // A snapshot from an older dataset must be rejected
+            try {
+                RiskSnapshotStore.load(file, datasetVersion + 1);
+                throw new AssertionError("Stale snapshot was accepted");
+            } catch (IllegalArgumentException expected) {
+                System.out.println("Stale snapshot rejected: " + expected.getMessage());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
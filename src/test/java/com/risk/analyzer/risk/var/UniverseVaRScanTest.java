@@ -0,0 +1,50 @@
+package com.risk.analyzer.risk.var;
+
+import java.util.Random;
+
+public class UniverseVaRScanTest {
+    public static void main(String[] args) {
+        System.out.println("=== Testing Universe VaR Scan ===\n");
+
+        int numInstruments = 2000;
+        int numPeriods = 250;
+        double portfolioValue = 100000.0;
+        double confidence = 0.99;
+        int timeHorizon = 10;
+
+        // Columnar block: instrument i occupies [i * numPeriods, (i + 1) * numPeriods)
+        Random random = new Random(42);
+        double[] block = new double[numInstruments * numPeriods];
+        for (int k = 0; k < block.length; k++) {
+            block[k] = random.nextGaussian() * 0.02;
+        }
+
+        VaRScanResult scan = UniverseVaRScan.scan(
+                block, numInstruments, numPeriods, portfolioValue, confidence, timeHorizon
+        );
+        System.out.println(scan);
+
+        // Every instrument must match the single-asset calculators
+        int mismatches = 0;
+        for (int i = 0; i < numInstruments; i++) {
+            double[] series = new double[numPeriods];
+            System.arraycopy(block, i * numPeriods, series, 0, numPeriods);
+
+            double historical = HistoricalVaR.calculate(series, portfolioValue, confidence, timeHorizon).getValue();
+            double gaussian = GaussianVaR.calculate(series, portfolioValue, confidence, timeHorizon).getValue();
+
+            if (Math.abs(historical - scan.getHistoricalVaR()[i]) > 1e-9
+                    || Math.abs(gaussian - scan.getGaussianVaR()[i]) > 1e-9) {
+                mismatches++;
+            }
+        }
+        System.out.println("Mismatches vs single-asset VaR: " + mismatches);
+        if (mismatches != 0) {
+            throw new AssertionError("Scan disagrees with HistoricalVaR/GaussianVaR");
+        }
+
+        System.out.printf("Instrument 0: mean=%.5f std=%.5f skew=%.3f kurt=%.3f%n",
+                scan.getMean()[0], scan.getStandardDeviation()[0],
+                scan.getSkewness()[0], scan.getKurtosis()[0]);
+    }
+}